@@ -0,0 +1,39 @@
+package com.prevenfire.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Static membership of the logging-service shards (active and draining).
+ * Mutable on purpose: Spring Cloud rebinds it on POST /actuator/refresh,
+ * which lets shards be added or removed without restarting the gateway.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "prevenfire.logging")
+public class LoggingShardProperties {
+
+    private List<Shard> shards = new ArrayList<>();
+
+    // Shards being removed: never own devices, only scanned by the rebalance to move their data out.
+    private List<Shard> drainingShards = new ArrayList<>();
+
+    // Points per shard on the hash ring; more points = more even distribution.
+    private int virtualNodes = 160;
+
+    @Data
+    public static class Shard {
+
+        // Stable identity used for hashing; changing it remaps the shard's devices.
+        private String id;
+
+        private String url;
+
+        // logging-service management port (/actuator/shard), used only by the rebalance.
+        private String managementUrl;
+    }
+}
@@ -0,0 +1,29 @@
+package com.prevenfire.gateway.controller;
+
+import com.prevenfire.gateway.dto.DeviceOverviewDTO;
+import com.prevenfire.gateway.service.DeviceOverviewService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/devices")
+public class DeviceOverviewController {
+
+    private final DeviceOverviewService service;
+
+    public DeviceOverviewController(DeviceOverviewService service) {
+        this.service = service;
+    }
+
+    /**
+     * Endpoint: GET /api/devices/{deviceId}/overview
+     * Returns config, latest readings and recent criticals in one round trip.
+     * Always 200; sections that could not be loaded are null and listed in errors.
+     */
+    @GetMapping("/{deviceId}/overview")
+    public Mono<ResponseEntity<DeviceOverviewDTO>> getDeviceOverview(@PathVariable String deviceId) {
+        return service.getOverview(deviceId)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,71 @@
+package com.prevenfire.gateway.controller;
+
+import com.prevenfire.gateway.service.ShardedReadingService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.queryParam;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Cross-shard readings queries, served by the gateway itself.
+ * <p>
+ * Declared as a router function rather than a @RestController on purpose: an annotated
+ * mapping on /api/readings would answer every other method on that path with 405, so
+ * POST /api/readings (device ingest) would never reach the sharded proxy route.
+ * A router function that does not match simply falls through to the gateway routes.
+ */
+@Configuration
+public class ShardedReadingRoutes {
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    /**
+     * Endpoint: GET /api/readings?deviceIds=a,b,c&limit=&before=&beforeId=
+     * Merged timeline across devices that may live on different shards.
+     * Shard errors are returned as-is (e.g. 400 for an invalid limit); an unreachable shard yields 502.
+     */
+    @Bean
+    public RouterFunction<ServerResponse> mergedReadingsRoute(ShardedReadingService service) {
+        return route(
+                GET("/api/readings").and(queryParam("deviceIds", value -> true)),
+                request -> getMergedSensorReadings(request, service)
+        );
+    }
+
+    private Mono<ServerResponse> getMergedSensorReadings(ServerRequest request, ShardedReadingService service) {
+        List<String> deviceIds = request.queryParams().getOrDefault("deviceIds", List.of()).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .toList();
+
+        int limit;
+        Long beforeId;
+        try {
+            limit = request.queryParam("limit").map(Integer::parseInt).orElse(DEFAULT_LIMIT);
+            beforeId = request.queryParam("beforeId").map(Long::valueOf).orElse(null);
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().bodyValue("Invalid numeric parameter: " + e.getMessage());
+        }
+        String before = request.queryParam("before").orElse(null);
+
+        return service.getMergedReadings(deviceIds, limit, before, beforeId)
+                .flatMap(page -> ServerResponse.ok().bodyValue(page))
+                .onErrorResume(IllegalArgumentException.class, e ->
+                        ServerResponse.badRequest().bodyValue(e.getMessage()))
+                .onErrorResume(WebClientResponseException.class, e ->
+                        ServerResponse.status(e.getStatusCode()).bodyValue(e.getResponseBodyAsString()))
+                .onErrorResume(WebClientRequestException.class, e ->
+                        ServerResponse.status(HttpStatus.BAD_GATEWAY).bodyValue("Logging shard unavailable: " + e.getUri()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.prevenfire.gateway.dto;
+
+/**
+ * One device history moved by the rebalance tool.
+ */
+public record DeviceMoveDTO(
+
+    String deviceId,
+
+    String fromShard,
+
+    String toShard,
+
+    Integer readingsMoved
+) {}
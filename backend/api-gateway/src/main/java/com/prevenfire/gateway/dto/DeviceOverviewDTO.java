@@ -0,0 +1,24 @@
+package com.prevenfire.gateway.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * Aggregated view of one device for the mobile dashboard.
+ * Payloads are passed through as returned by the downstream services.
+ * A null section means that leg failed or timed out; the reason is listed in errors.
+ */
+public record DeviceOverviewDTO(
+
+    String deviceId,
+
+    // Null when the device has no configuration yet (control-service 404).
+    JsonNode config,
+
+    JsonNode latestReadings,
+
+    JsonNode recentCriticals,
+
+    List<String> errors
+) {}
@@ -0,0 +1,18 @@
+package com.prevenfire.gateway.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * Page of the merged multi-device timeline, as returned by logging-service.
+ * Readings are passed through untouched; nextBefore is kept as the ISO string the shards produce.
+ */
+public record ReadingPageDTO(
+
+    List<JsonNode> readings,
+
+    String nextBefore,
+
+    Long nextBeforeId
+) {}
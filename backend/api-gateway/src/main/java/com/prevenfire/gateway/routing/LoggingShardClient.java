@@ -0,0 +1,96 @@
+package com.prevenfire.gateway.routing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.prevenfire.gateway.dto.ReadingPageDTO;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Calls a specific logging-service shard.
+ * Used by the paths that cannot be routed by a single deviceId (scatter-gather and rebalance).
+ */
+@Component
+public class LoggingShardClient {
+
+    private final WebClient webClient;
+
+    public LoggingShardClient(WebClient.Builder builder) {
+        this.webClient = builder.build();
+    }
+
+    /**
+     * GET /api/readings?deviceIds=...: one page of the shard's merged timeline.
+     */
+    public Mono<ReadingPageDTO> fetchPage(
+            ShardRing.Shard shard, List<String> deviceIds, int limit, String before, Long beforeId
+    ) {
+        URI uri = UriComponentsBuilder.fromUri(shard.url())
+                .path("/api/readings")
+                .queryParam("deviceIds", String.join(",", deviceIds))
+                .queryParam("limit", limit)
+                .queryParamIfPresent("before", Optional.ofNullable(before))
+                .queryParamIfPresent("beforeId", Optional.ofNullable(beforeId))
+                .encode()
+                .build()
+                .toUri();
+
+        return webClient.get()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(ReadingPageDTO.class);
+    }
+
+    /**
+     * GET /actuator/shard (management port): devices stored on the shard.
+     */
+    public Flux<String> listDevices(ShardRing.Shard shard) {
+        return webClient.get()
+                .uri(managementUri(shard).build().toUri())
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<String>>() {})
+                .flatMapMany(Flux::fromIterable);
+    }
+
+    /**
+     * POST /actuator/shard (management port): stores readings copied from another shard.
+     */
+    public Mono<Void> importReadings(ShardRing.Shard shard, List<JsonNode> readings) {
+        return webClient.post()
+                .uri(managementUri(shard).build().toUri())
+                .bodyValue(Map.of("readings", readings))
+                .retrieve()
+                .toBodilessEntity()
+                .then();
+    }
+
+    /**
+     * DELETE /actuator/shard/{deviceId} (management port): drops a device history after it was moved.
+     */
+    public Mono<Void> deleteReadings(ShardRing.Shard shard, String deviceId) {
+        URI uri = managementUri(shard)
+                .path("/{deviceId}")
+                .build(deviceId);
+
+        return webClient.delete()
+                .uri(uri)
+                .retrieve()
+                .toBodilessEntity()
+                .then();
+    }
+
+    private static UriComponentsBuilder managementUri(ShardRing.Shard shard) {
+        if (shard.managementUrl() == null) {
+            throw new IllegalStateException("Shard " + shard.id() + " has no management-url configured");
+        }
+        return UriComponentsBuilder.fromUri(shard.managementUrl()).path("/actuator/shard");
+    }
+}
@@ -0,0 +1,89 @@
+package com.prevenfire.gateway.routing;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable consistent-hash ring mapping device IDs to logging-service shards.
+ * Each shard is placed at several virtual nodes so devices spread evenly, and adding
+ * a shard only moves the devices that now hash to it (about 1/N of them).
+ */
+public final class ShardRing {
+
+    /**
+     * @param managementUrl logging-service management port, used by the rebalance; may be null.
+     */
+    public record Shard(String id, URI url, URI managementUrl) {}
+
+    private final List<Shard> shards;
+    private final List<Shard> draining;
+    private final NavigableMap<Long, Shard> ring = new TreeMap<>();
+
+    public ShardRing(List<Shard> shards, int virtualNodes) {
+        this(shards, List.of(), virtualNodes);
+    }
+
+    /**
+     * @param draining shards being removed: kept off the ring (they never own a device)
+     *                 but listed so the rebalance can move their remaining histories out.
+     */
+    public ShardRing(List<Shard> shards, List<Shard> draining, int virtualNodes) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one logging-service shard is required");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("Virtual nodes must be at least 1");
+        }
+
+        Set<String> activeIds = shards.stream().map(Shard::id).collect(Collectors.toSet());
+        for (Shard shard : draining) {
+            if (activeIds.contains(shard.id())) {
+                throw new IllegalArgumentException("Shard " + shard.id() + " cannot be both active and draining");
+            }
+        }
+
+        this.shards = List.copyOf(shards);
+        this.draining = List.copyOf(draining);
+        for (Shard shard : this.shards) {
+            // Hash the shard ID, not its URL, so moving a shard to another host keeps its devices.
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.putIfAbsent(hash(shard.id() + "#" + i), shard);
+            }
+        }
+    }
+
+    /**
+     * Returns the shard owning the device: the first virtual node clockwise from its hash.
+     */
+    public Shard shardFor(String deviceId) {
+        Map.Entry<Long, Shard> entry = ring.ceilingEntry(hash(deviceId));
+        return (entry != null ? entry : ring.firstEntry()).getValue();
+    }
+
+    public List<Shard> shards() {
+        return shards;
+    }
+
+    public List<Shard> draining() {
+        return draining;
+    }
+
+    // First 8 bytes of MD5: stable across JVMs and well spread, unlike String.hashCode().
+    static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest, 0, Long.BYTES).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.prevenfire.gateway.routing;
+
+import com.prevenfire.gateway.config.LoggingShardProperties;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Holds the current shard ring and rebuilds it when the configuration is refreshed.
+ * Readers always see a complete ring: it is swapped atomically, never mutated.
+ */
+@Component
+public class ShardRouter {
+
+    private final LoggingShardProperties properties;
+    private volatile ShardRing ring;
+
+    public ShardRouter(LoggingShardProperties properties) {
+        this.properties = properties;
+        this.ring = buildRing(properties);
+    }
+
+    /**
+     * Fired after POST /actuator/refresh has rebound LoggingShardProperties.
+     * An invalid membership throws before the swap, so the previous ring stays active.
+     */
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void reload() {
+        this.ring = buildRing(properties);
+    }
+
+    public ShardRing.Shard shardFor(String deviceId) {
+        return ring.shardFor(deviceId);
+    }
+
+    public ShardRing ring() {
+        return ring;
+    }
+
+    private static ShardRing buildRing(LoggingShardProperties properties) {
+        return new ShardRing(
+                toShards(properties.getShards()),
+                toShards(properties.getDrainingShards()),
+                properties.getVirtualNodes()
+        );
+    }
+
+    private static List<ShardRing.Shard> toShards(List<LoggingShardProperties.Shard> shards) {
+        return shards.stream()
+                .map(shard -> new ShardRing.Shard(
+                        shard.getId(),
+                        URI.create(shard.getUrl()),
+                        shard.getManagementUrl() != null ? URI.create(shard.getManagementUrl()) : null
+                ))
+                .toList();
+    }
+}
@@ -0,0 +1,104 @@
+package com.prevenfire.gateway.routing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.*;
+
+/**
+ * Resolves routes declared with a shard:// URI to the logging-service shard owning the device.
+ * Works like the load balancer filter for lb:// URIs, but the target is chosen by deviceId:
+ * - GET /api/readings/{deviceId}/**: deviceId from the path.
+ * - POST /api/readings: deviceId from the JSON body (the body is cached and replayed).
+ * Requests without a deviceId go to the shard of the empty key, where the service validates them.
+ */
+@Component
+public class ShardRoutingFilter implements GlobalFilter, Ordered {
+
+    public static final String SHARD_SCHEME = "shard";
+
+    // Same slot as ReactiveLoadBalancerClientFilter: after RouteToRequestUrlFilter, before the HTTP client.
+    private static final int ORDER = 10150;
+
+    private final ShardRouter router;
+    private final ObjectMapper objectMapper;
+
+    public ShardRoutingFilter(ShardRouter router, ObjectMapper objectMapper) {
+        this.router = router;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        URI url = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+        if (url == null || !SHARD_SCHEME.equals(url.getScheme())) {
+            return chain.filter(exchange);
+        }
+        addOriginalRequestUrl(exchange, url);
+
+        String deviceId = deviceIdFromPath(exchange.getRequest().getPath().value());
+        if (deviceId != null || !HttpMethod.POST.equals(exchange.getRequest().getMethod())) {
+            return routeTo(exchange, chain, url, deviceId);
+        }
+
+        return cacheRequestBodyAndRequest(exchange, request -> {
+            ServerWebExchange cached = exchange.mutate().request(request).build();
+            DataBuffer body = exchange.getAttribute(CACHED_REQUEST_BODY_ATTR);
+            return routeTo(cached, chain, url, deviceIdFromBody(body));
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private Mono<Void> routeTo(ServerWebExchange exchange, GatewayFilterChain chain, URI url, String deviceId) {
+        URI shardUrl = router.shardFor(deviceId != null ? deviceId : "").url();
+        URI requestUrl = UriComponentsBuilder.fromUri(url)
+                .scheme(shardUrl.getScheme())
+                .host(shardUrl.getHost())
+                .port(shardUrl.getPort())
+                .build(true)
+                .toUri();
+
+        exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR, requestUrl);
+        return chain.filter(exchange);
+    }
+
+    // /api/readings/{deviceId}[/...] -> deviceId
+    static String deviceIdFromPath(String path) {
+        String[] segments = path.split("/");
+        if (segments.length < 4 || segments[3].isEmpty()) {
+            return null;
+        }
+        return UriUtils.decode(segments[3], StandardCharsets.UTF_8);
+    }
+
+    private String deviceIdFromBody(DataBuffer body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            JsonNode deviceId = objectMapper.readTree(body.toString(StandardCharsets.UTF_8)).get("deviceId");
+            return deviceId != null && deviceId.isTextual() ? deviceId.asText() : null;
+        } catch (IOException e) {
+            // Malformed JSON: let logging-service reject it with its usual 400.
+            return null;
+        }
+    }
+}
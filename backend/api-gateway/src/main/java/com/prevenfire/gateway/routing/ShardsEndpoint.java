@@ -0,0 +1,48 @@
+package com.prevenfire.gateway.routing;
+
+import com.prevenfire.gateway.dto.DeviceMoveDTO;
+import com.prevenfire.gateway.service.ShardRebalanceService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Operator endpoint for logging-service sharding, exposed only on the management port
+ * (management.server.port), never on the client-facing gateway port.
+ * - GET  /actuator/shards            active ring members
+ * - GET  /actuator/shards/{deviceId} owning shard of a device
+ * - POST /actuator/shards            rebalance: move device histories to their owners
+ * Membership itself is reloaded with POST /actuator/refresh.
+ */
+@Component
+@Endpoint(id = "shards")
+public class ShardsEndpoint {
+
+    private final ShardRouter router;
+    private final ShardRebalanceService rebalanceService;
+
+    public ShardsEndpoint(ShardRouter router, ShardRebalanceService rebalanceService) {
+        this.router = router;
+        this.rebalanceService = rebalanceService;
+    }
+
+    @ReadOperation
+    public List<ShardRing.Shard> shards() {
+        return router.ring().shards();
+    }
+
+    @ReadOperation
+    public ShardRing.Shard owner(@Selector String deviceId) {
+        return router.shardFor(deviceId);
+    }
+
+    @WriteOperation
+    public Mono<List<DeviceMoveDTO>> rebalance() {
+        return rebalanceService.rebalance();
+    }
+}
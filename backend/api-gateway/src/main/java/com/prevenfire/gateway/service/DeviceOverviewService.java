@@ -0,0 +1,111 @@
+package com.prevenfire.gateway.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.prevenfire.gateway.dto.DeviceOverviewDTO;
+import com.prevenfire.gateway.routing.ShardRouter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Fans out to control-service and logging-service concurrently and merges
+ * config, latest readings and recent criticals into a single response.
+ * Each leg has its own timeout; a failed leg yields a partial result instead of an error.
+ */
+@Service
+public class DeviceOverviewService {
+
+    private final WebClient controlClient;
+    private final WebClient loggingClient;
+    private final ShardRouter shardRouter;
+    private final Duration legTimeout;
+    private final int readingsLimit;
+    private final int criticalsLimit;
+
+    public DeviceOverviewService(
+            WebClient.Builder builder,
+            @Value("${prevenfire.services.control-url:http://localhost:8082}") String controlUrl,
+            ShardRouter shardRouter,
+            @Value("${prevenfire.overview.leg-timeout-ms:2000}") long legTimeoutMs,
+            @Value("${prevenfire.overview.readings-limit:20}") int readingsLimit,
+            @Value("${prevenfire.overview.criticals-limit:10}") int criticalsLimit
+    ) {
+        this.controlClient = builder.clone().baseUrl(controlUrl).build();
+        this.loggingClient = builder.clone().build();
+        this.shardRouter = shardRouter;
+        this.legTimeout = Duration.ofMillis(legTimeoutMs);
+        this.readingsLimit = readingsLimit;
+        this.criticalsLimit = criticalsLimit;
+    }
+
+    public Mono<DeviceOverviewDTO> getOverview(String deviceId) {
+        List<String> errors = new CopyOnWriteArrayList<>();
+        // Both logging legs go to the shard owning this device.
+        URI loggingUrl = shardRouter.shardFor(deviceId).url();
+
+        Mono<Optional<JsonNode>> config = leg("config", errors, controlClient.get()
+                .uri("/api/config/{deviceId}", deviceId)
+                .exchangeToMono(response -> {
+                    // A device without configuration is a valid state, not a failure.
+                    if (response.statusCode() == HttpStatus.NOT_FOUND) {
+                        return response.releaseBody().then(Mono.empty());
+                    }
+                    if (response.statusCode().isError()) {
+                        return response.createError();
+                    }
+                    return response.bodyToMono(JsonNode.class);
+                }));
+
+        // Bounded page from the merged history endpoint instead of the full history.
+        Mono<Optional<JsonNode>> readings = leg("latestReadings", errors, loggingClient.get()
+                .uri(UriComponentsBuilder.fromUri(loggingUrl)
+                        .path("/api/readings")
+                        .queryParam("deviceIds", "{deviceId}")
+                        .queryParam("limit", readingsLimit)
+                        .build(deviceId))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .mapNotNull(page -> page.get("readings")));
+
+        Mono<Optional<JsonNode>> criticals = leg("recentCriticals", errors, loggingClient.get()
+                .uri(UriComponentsBuilder.fromUri(loggingUrl)
+                        .path("/api/readings/{deviceId}/criticals")
+                        .queryParam("limit", criticalsLimit)
+                        .build(deviceId))
+                .retrieve()
+                .bodyToMono(JsonNode.class));
+
+        return Mono.zip(config, readings, criticals)
+                .map(legs -> new DeviceOverviewDTO(
+                        deviceId,
+                        legs.getT1().orElse(null),
+                        legs.getT2().orElse(null),
+                        legs.getT3().orElse(null),
+                        List.copyOf(errors)
+                ));
+    }
+
+    /**
+     * Applies the per-leg timeout and turns failures into an empty value plus an error entry,
+     * so one slow or unavailable service never fails the whole overview.
+     */
+    private Mono<Optional<JsonNode>> leg(String name, List<String> errors, Mono<JsonNode> call) {
+        return call
+                .timeout(legTimeout)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(e -> {
+                    errors.add(name + ": " + e.getClass().getSimpleName());
+                    return Mono.just(Optional.empty());
+                });
+    }
+}
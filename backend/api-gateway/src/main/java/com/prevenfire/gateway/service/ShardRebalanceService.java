@@ -0,0 +1,81 @@
+package com.prevenfire.gateway.service;
+
+import com.prevenfire.gateway.dto.DeviceMoveDTO;
+import com.prevenfire.gateway.dto.ReadingPageDTO;
+import com.prevenfire.gateway.routing.LoggingShardClient;
+import com.prevenfire.gateway.routing.ShardRing;
+import com.prevenfire.gateway.routing.ShardRouter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Moves device histories to the shard that owns them under the current ring.
+ * Run after changing membership (and refreshing the configuration):
+ * - adding a shard: list it under prevenfire.logging.shards;
+ * - removing a shard: move it from shards to draining-shards. Draining shards own no devices
+ *   but are still scanned here, so their histories are moved out. Drop them from the
+ *   configuration only after a rebalance has completed; a shard removed outright is never
+ *   scanned and its readings become unreachable.
+ * <p>
+ * Each device is copied page by page to its new shard, then deleted from the old one.
+ * New readings already go to the new shard, so no writes are lost during the move;
+ * reads of a device may be incomplete until its move finishes. If a move fails midway,
+ * the source keeps the full history and rebalance can simply be re-run: the target's
+ * import skips readings it already stores with identical content.
+ */
+@Service
+public class ShardRebalanceService {
+
+    private final ShardRouter router;
+    private final LoggingShardClient client;
+    private final int batchSize;
+
+    /**
+     * @param batchSize rows per copy page; must not exceed the shards' prevenfire.readings.max-limit,
+     *                  otherwise logging-service rejects the page request.
+     */
+    public ShardRebalanceService(
+            ShardRouter router,
+            LoggingShardClient client,
+            @Value("${prevenfire.logging.rebalance-batch-size:500}") int batchSize
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Rebalance batch size must be at least 1");
+        }
+        this.router = router;
+        this.client = client;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Moves every misplaced device, one at a time, and reports what was moved.
+     */
+    public Mono<List<DeviceMoveDTO>> rebalance() {
+        ShardRing ring = router.ring();
+
+        return Flux.concat(Flux.fromIterable(ring.shards()), Flux.fromIterable(ring.draining()))
+                .concatMap(source -> client.listDevices(source)
+                        .filter(deviceId -> !ring.shardFor(deviceId).id().equals(source.id()))
+                        .concatMap(deviceId -> moveDevice(deviceId, source, ring.shardFor(deviceId))))
+                .collectList();
+    }
+
+    private Mono<DeviceMoveDTO> moveDevice(String deviceId, ShardRing.Shard source, ShardRing.Shard target) {
+        List<String> device = List.of(deviceId);
+
+        return client.fetchPage(source, device, batchSize, null, null)
+                .expand(page -> page.nextBefore() == null
+                        ? Mono.empty()
+                        : client.fetchPage(source, device, batchSize, page.nextBefore(), page.nextBeforeId()))
+                .map(ReadingPageDTO::readings)
+                .filter(readings -> !readings.isEmpty())
+                .concatMap(readings -> client.importReadings(target, readings).thenReturn(readings.size()))
+                .reduce(0, Integer::sum)
+                .flatMap(moved -> client.deleteReadings(source, deviceId)
+                        .thenReturn(new DeviceMoveDTO(deviceId, source.id(), target.id(), moved)));
+    }
+}
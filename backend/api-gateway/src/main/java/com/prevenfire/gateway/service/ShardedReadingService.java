@@ -0,0 +1,78 @@
+package com.prevenfire.gateway.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.prevenfire.gateway.dto.ReadingPageDTO;
+import com.prevenfire.gateway.routing.LoggingShardClient;
+import com.prevenfire.gateway.routing.ShardRing;
+import com.prevenfire.gateway.routing.ShardRouter;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Scatter-gather for the merged multi-device timeline.
+ * Devices are grouped by owning shard, each shard returns its own merged page
+ * (queried concurrently), and the pages are merged again on (timestamp, id).
+ * Each shard returns at most {@code limit} rows, so memory stays bounded by shards * limit.
+ */
+@Service
+public class ShardedReadingService {
+
+    private static final Comparator<JsonNode> NEWEST_FIRST = Comparator
+            .comparing((JsonNode reading) -> LocalDateTime.parse(reading.get("timestamp").asText()))
+            .thenComparingLong(reading -> reading.get("id").asLong())
+            .reversed();
+
+    private final ShardRouter router;
+    private final LoggingShardClient client;
+
+    public ShardedReadingService(ShardRouter router, LoggingShardClient client) {
+        this.router = router;
+        this.client = client;
+    }
+
+    /**
+     * Returns one page across all shards, using the same cursor contract as logging-service.
+     * Throws IllegalArgumentException when no device ID is given; limit is validated by the shards.
+     */
+    public Mono<ReadingPageDTO> getMergedReadings(List<String> deviceIds, int limit, String before, Long beforeId) {
+        ShardRing ring = router.ring();
+        Map<ShardRing.Shard, List<String>> devicesByShard = deviceIds.stream()
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .distinct()
+                .collect(Collectors.groupingBy(ring::shardFor, LinkedHashMap::new, Collectors.toList()));
+
+        if (devicesByShard.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("At least one device ID is required"));
+        }
+
+        return Flux.fromIterable(devicesByShard.entrySet())
+                .flatMap(entry -> client.fetchPage(entry.getKey(), entry.getValue(), limit, before, beforeId))
+                .collectList()
+                .map(pages -> mergePages(pages, limit));
+    }
+
+    private ReadingPageDTO mergePages(List<ReadingPageDTO> pages, int limit) {
+        List<JsonNode> all = pages.stream()
+                .flatMap(page -> page.readings().stream())
+                .sorted(NEWEST_FIRST)
+                .toList();
+
+        List<JsonNode> page = all.subList(0, Math.min(limit, all.size()));
+        boolean hasMore = all.size() > limit || pages.stream().anyMatch(p -> p.nextBefore() != null);
+        if (!hasMore || page.isEmpty()) {
+            return new ReadingPageDTO(page, null, null);
+        }
+
+        JsonNode last = page.get(page.size() - 1);
+        return new ReadingPageDTO(page, last.get("timestamp").asText(), last.get("id").asLong());
+    }
+}
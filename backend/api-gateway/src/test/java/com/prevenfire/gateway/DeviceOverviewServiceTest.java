@@ -0,0 +1,113 @@
+package com.prevenfire.gateway;
+
+import com.prevenfire.gateway.config.LoggingShardProperties;
+import com.prevenfire.gateway.dto.DeviceOverviewDTO;
+import com.prevenfire.gateway.routing.ShardRouter;
+import com.prevenfire.gateway.service.DeviceOverviewService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeviceOverviewServiceTest {
+
+    private static final String CONFIG_JSON = "{\"deviceId\":\"ESP32\",\"effectiveTemperatureLimit\":50.0}";
+    private static final String PAGE_JSON = "{\"readings\":[{\"id\":2},{\"id\":1}],\"nextBefore\":null,\"nextBeforeId\":null}";
+    private static final String CRITICALS_JSON = "[{\"id\":3},{\"id\":2}]";
+
+    @Test
+    @DisplayName("Should merge config, latest readings and criticals into one response")
+    void shouldMergeAllLegs() {
+        DeviceOverviewService service = serviceWith(request -> {
+            String path = request.url().getPath();
+            if (path.startsWith("/api/config/")) {
+                return json(CONFIG_JSON);
+            }
+            if (path.endsWith("/criticals")) {
+                // Limit must be pushed down to logging-service
+                assertEquals("limit=2", request.url().getQuery());
+                return json(CRITICALS_JSON);
+            }
+            return json(PAGE_JSON);
+        });
+
+        DeviceOverviewDTO overview = service.getOverview("ESP32").block();
+
+        assertNotNull(overview);
+        assertEquals(50.0, overview.config().get("effectiveTemperatureLimit").asDouble());
+        assertEquals(2, overview.latestReadings().size());
+        assertEquals(2, overview.recentCriticals().size());
+        assertTrue(overview.errors().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return partial result when a leg fails or times out")
+    void shouldReturnPartialResultOnFailure() {
+        DeviceOverviewService service = serviceWith(request -> {
+            String path = request.url().getPath();
+            if (path.startsWith("/api/config/")) {
+                return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+            }
+            if (path.endsWith("/criticals")) {
+                return Mono.never();
+            }
+            return json(PAGE_JSON);
+        });
+
+        DeviceOverviewDTO overview = service.getOverview("ESP32").block();
+
+        assertNotNull(overview);
+        assertNull(overview.config());
+        assertNull(overview.recentCriticals());
+        assertEquals(2, overview.latestReadings().size());
+        assertEquals(2, overview.errors().size());
+    }
+
+    @Test
+    @DisplayName("Should treat missing configuration as absent, not as an error")
+    void shouldTreatConfigNotFoundAsAbsent() {
+        DeviceOverviewService service = serviceWith(request -> {
+            String path = request.url().getPath();
+            if (path.startsWith("/api/config/")) {
+                return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).body("Device not found").build());
+            }
+            if (path.endsWith("/criticals")) {
+                return json("[]");
+            }
+            return json(PAGE_JSON);
+        });
+
+        DeviceOverviewDTO overview = service.getOverview("ESP32").block();
+
+        assertNotNull(overview);
+        assertNull(overview.config());
+        assertTrue(overview.errors().isEmpty());
+    }
+
+    private DeviceOverviewService serviceWith(ExchangeFunction exchange) {
+        LoggingShardProperties.Shard shard = new LoggingShardProperties.Shard();
+        shard.setId("shard-0");
+        shard.setUrl("http://logging");
+        LoggingShardProperties properties = new LoggingShardProperties();
+        properties.getShards().add(shard);
+
+        return new DeviceOverviewService(
+                WebClient.builder().exchangeFunction(exchange),
+                "http://control", new ShardRouter(properties), 200, 2, 2
+        );
+    }
+
+    private Mono<ClientResponse> json(String body) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+}
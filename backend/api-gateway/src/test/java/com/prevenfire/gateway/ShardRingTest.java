@@ -0,0 +1,127 @@
+package com.prevenfire.gateway;
+
+import com.prevenfire.gateway.routing.ShardRing;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardRingTest {
+
+    private static final int VIRTUAL_NODES = 160;
+
+    @Test
+    @DisplayName("Should always route the same device to the same shard")
+    void shouldRouteDeterministically() {
+        ShardRing ring = ring(4);
+        ShardRing rebuilt = ring(4);
+
+        for (String deviceId : devices(1000)) {
+            assertEquals(ring.shardFor(deviceId), rebuilt.shardFor(deviceId));
+        }
+    }
+
+    @Test
+    @DisplayName("Should only move devices to the new shard when a shard is added")
+    void shouldMoveMinimalDevicesOnShardAdded() {
+        ShardRing before = ring(4);
+        ShardRing after = ring(5);
+        List<String> devices = devices(10000);
+
+        int moved = 0;
+        for (String deviceId : devices) {
+            ShardRing.Shard oldOwner = before.shardFor(deviceId);
+            ShardRing.Shard newOwner = after.shardFor(deviceId);
+            if (!oldOwner.equals(newOwner)) {
+                assertEquals("shard-4", newOwner.id());
+                moved++;
+            }
+        }
+
+        // Ideal is 1/5 of the devices; plain modulo hashing would move ~4/5.
+        assertTrue(moved < devices.size() * 0.3, "Moved " + moved + " devices");
+    }
+
+    @Test
+    @DisplayName("Should keep routing when a shard changes URL but keeps its ID")
+    void shouldIgnoreUrlForPlacement() {
+        ShardRing ring = ring(3);
+        List<ShardRing.Shard> relocated = new ArrayList<>(ring.shards());
+        relocated.set(1, new ShardRing.Shard("shard-1", URI.create("http://new-host:9000"), null));
+        ShardRing relocatedRing = new ShardRing(relocated, VIRTUAL_NODES);
+
+        for (String deviceId : devices(1000)) {
+            assertEquals(ring.shardFor(deviceId).id(), relocatedRing.shardFor(deviceId).id());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the busiest shard within 80% of an even device split")
+    void shouldBalanceDevicesAcrossShards() {
+        // Ratio of total devices to the busiest shard's share; equals the shard count for a perfect split.
+        List<String> devices = devices(10000);
+
+        for (int shards : new int[]{1, 2, 4, 8}) {
+            ShardRing ring = ring(shards);
+            Map<String, Integer> load = new HashMap<>();
+            for (String deviceId : devices) {
+                load.merge(ring.shardFor(deviceId).id(), 1, Integer::sum);
+            }
+
+            int busiest = load.values().stream().max(Integer::compare).orElseThrow();
+            double balance = (double) devices.size() / busiest;
+
+            assertTrue(balance >= 0.8 * shards, "Balance " + balance + " with " + shards + " shards");
+        }
+    }
+
+    @Test
+    @DisplayName("Should never route to a draining shard while still listing it for the rebalance")
+    void shouldKeepDrainingShardsOffTheRing() {
+        ShardRing before = ring(4);
+        ShardRing.Shard removed = before.shards().get(3);
+        ShardRing draining = new ShardRing(before.shards().subList(0, 3), List.of(removed), VIRTUAL_NODES);
+
+        for (String deviceId : devices(1000)) {
+            assertNotEquals(removed.id(), draining.shardFor(deviceId).id());
+        }
+        assertEquals(List.of(removed), draining.draining());
+    }
+
+    @Test
+    @DisplayName("Should reject a shard that is both active and draining")
+    void shouldRejectShardActiveAndDraining() {
+        ShardRing ring = ring(2);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ShardRing(ring.shards(), List.of(ring.shards().get(1)), VIRTUAL_NODES));
+    }
+
+    @Test
+    @DisplayName("Should reject an empty shard list")
+    void shouldRejectEmptyRing() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardRing(List.of(), VIRTUAL_NODES));
+    }
+
+    private ShardRing ring(int shards) {
+        List<ShardRing.Shard> members = new ArrayList<>();
+        for (int i = 0; i < shards; i++) {
+            members.add(new ShardRing.Shard("shard-" + i, URI.create("http://localhost:" + (8081 + i)), null));
+        }
+        return new ShardRing(members, VIRTUAL_NODES);
+    }
+
+    private List<String> devices(int count) {
+        List<String> devices = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            devices.add(String.format("ESP32-%05d", i));
+        }
+        return devices;
+    }
+}
@@ -0,0 +1,189 @@
+package com.prevenfire.gateway;
+
+import com.prevenfire.gateway.routing.ShardRouter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the gateway against two stub logging-service shards (JDK HttpServer)
+ * and checks that each request type reaches the right place.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+class ShardRoutingIntegrationTest {
+
+    private static final StubShard SHARD_0 = new StubShard();
+    private static final StubShard SHARD_1 = new StubShard();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @DynamicPropertySource
+    static void shardProperties(DynamicPropertyRegistry registry) {
+        registry.add("prevenfire.logging.shards[0].id", () -> "shard-0");
+        registry.add("prevenfire.logging.shards[0].url", SHARD_0::url);
+        registry.add("prevenfire.logging.shards[1].id", () -> "shard-1");
+        registry.add("prevenfire.logging.shards[1].url", SHARD_1::url);
+        registry.add("management.server.port", () -> 0);
+    }
+
+    @BeforeEach
+    void resetStubs() {
+        SHARD_0.requests.clear();
+        SHARD_1.requests.clear();
+    }
+
+    @AfterAll
+    static void stopStubs() {
+        SHARD_0.server.stop(0);
+        SHARD_1.server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should forward POST /api/readings to the shard owning the deviceId in the body")
+    void shouldRouteIngestByBodyDeviceId() {
+        String body = "{\"deviceId\":\"ESP32-INGEST\",\"temperature\":25.5,\"temperatureLimit\":50.0}";
+
+        webTestClient.post()
+                .uri("/api/readings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isCreated();
+
+        StubShard owner = stubFor("ESP32-INGEST");
+        StubShard other = owner == SHARD_0 ? SHARD_1 : SHARD_0;
+        assertEquals(List.of("POST /api/readings " + body), List.copyOf(owner.requests));
+        assertTrue(other.requests.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should forward GET /api/readings/{deviceId} to the shard owning the path deviceId")
+    void shouldRouteHistoryByPathDeviceId() {
+        webTestClient.get()
+                .uri("/api/readings/ESP32-HISTORY/criticals")
+                .exchange()
+                .expectStatus().isOk();
+
+        assertEquals(1, stubFor("ESP32-HISTORY").requests.size());
+    }
+
+    @Test
+    @DisplayName("Should serve GET /api/readings?deviceIds= as a scatter-gather across shards")
+    void shouldScatterGatherMergedReadings() {
+        webTestClient.get()
+                .uri("/api/readings?deviceIds=ESP32-A,ESP32-B,ESP32-C,ESP32-D&limit=10")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.readings.length()").isEqualTo(4)
+                .jsonPath("$.nextBefore").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should not expose shard administration on the client-facing port")
+    void shouldNotExposeAdminOnGatewayPort() {
+        webTestClient.post().uri("/actuator/shards").exchange().expectStatus().isNotFound();
+        webTestClient.post().uri("/actuator/refresh").exchange().expectStatus().isNotFound();
+    }
+
+    private StubShard stubFor(String deviceId) {
+        return "shard-0".equals(shardRouter.shardFor(deviceId).id()) ? SHARD_0 : SHARD_1;
+    }
+
+    /**
+     * Minimal logging-service stand-in recording "METHOD path body" for each request.
+     * GET /api/readings?deviceIds= answers one reading per requested device.
+     */
+    private static final class StubShard {
+
+        private final HttpServer server;
+        private final Queue<String> requests = new ConcurrentLinkedQueue<>();
+
+        private StubShard() {
+            try {
+                server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            server.createContext("/", this::handle);
+            server.start();
+        }
+
+        private String url() {
+            return "http://localhost:" + server.getAddress().getPort();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            requests.add(method + " " + path + (body.isEmpty() ? "" : " " + body));
+
+            if ("POST".equals(method)) {
+                respond(exchange, 201, "Sensor reading registered successfully.");
+            } else if ("/api/readings".equals(path)) {
+                respond(exchange, 200, page(exchange.getRequestURI().getQuery()));
+            } else {
+                respond(exchange, 200, "[]");
+            }
+        }
+
+        private String page(String query) {
+            Map<String, String> params = new HashMap<>();
+            for (String pair : query.split("&")) {
+                String[] keyValue = pair.split("=", 2);
+                params.put(keyValue[0], keyValue.length > 1 ? keyValue[1] : "");
+            }
+
+            StringBuilder readings = new StringBuilder();
+            String[] deviceIds = params.get("deviceIds").split(",");
+            for (int i = 0; i < deviceIds.length; i++) {
+                if (i > 0) {
+                    readings.append(",");
+                }
+                readings.append(String.format(
+                        "{\"id\":%d,\"deviceId\":\"%s\",\"timestamp\":\"2025-01-01T12:00:%02d\"}",
+                        i + 1, deviceIds[i], i
+                ));
+            }
+            return "{\"readings\":[" + readings + "],\"nextBefore\":null,\"nextBeforeId\":null}";
+        }
+
+        private void respond(HttpExchange exchange, int status, String body) throws IOException {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type",
+                    body.startsWith("{") || body.startsWith("[") ? "application/json" : "text/plain");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+}
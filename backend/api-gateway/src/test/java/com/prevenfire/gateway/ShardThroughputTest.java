@@ -0,0 +1,192 @@
+package com.prevenfire.gateway;
+
+import com.prevenfire.gateway.config.LoggingShardProperties;
+import com.prevenfire.gateway.routing.ShardRouter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures ingest throughput through the gateway with 1, 2 and 4 stub shards.
+ * Each stub serves one request at a time with a fixed service time, so a single shard caps
+ * throughput at 1 / SERVICE_TIME; adding shards must raise it roughly in proportion.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ShardThroughputTest {
+
+    private static final Duration SERVICE_TIME = Duration.ofMillis(15);
+    private static final int REQUESTS = 240;
+    private static final int CONCURRENCY = 32;
+
+    private static final List<StubShard> SHARDS = List.of(new StubShard(), new StubShard(), new StubShard(), new StubShard());
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private WebClient.Builder webClientBuilder;
+
+    @Autowired
+    private LoggingShardProperties properties;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @DynamicPropertySource
+    static void shardProperties(DynamicPropertyRegistry registry) {
+        registry.add("prevenfire.logging.shards[0].id", () -> "shard-0");
+        registry.add("prevenfire.logging.shards[0].url", SHARDS.get(0)::url);
+        registry.add("management.server.port", () -> 0);
+    }
+
+    @AfterAll
+    static void stopStubs() {
+        SHARDS.forEach(StubShard::stop);
+    }
+
+    @Test
+    @DisplayName("Should scale ingest throughput with the number of shards")
+    void shouldScaleThroughputWithShards() {
+        WebClient client = webClientBuilder.baseUrl("http://localhost:" + port).build();
+
+        // Warm-up: JIT and connection pools to every stub
+        useShards(4);
+        post(client, balancedDevices(4, 16));
+
+        double rps1 = measure(client, 1);
+        double rps2 = measure(client, 2);
+        double rps4 = measure(client, 4);
+
+        // Ideal scaling is 2x and 4x; leave room for gateway overhead and scheduling noise.
+        assertTrue(rps2 >= 1.5 * rps1, "1 shard: " + rps1 + " req/s, 2 shards: " + rps2 + " req/s");
+        assertTrue(rps4 >= 2.5 * rps1, "1 shard: " + rps1 + " req/s, 4 shards: " + rps4 + " req/s");
+    }
+
+    private double measure(WebClient client, int shards) {
+        useShards(shards);
+        List<String> devices = balancedDevices(shards, REQUESTS / shards);
+        SHARDS.forEach(shard -> shard.handled.set(0));
+
+        long start = System.nanoTime();
+        post(client, devices);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        // Every request reached its owner, and only active shards received traffic
+        for (int i = 0; i < SHARDS.size(); i++) {
+            assertEquals(i < shards ? REQUESTS / shards : 0, SHARDS.get(i).handled.get(), "shard-" + i);
+        }
+        return devices.size() / seconds;
+    }
+
+    private void post(WebClient client, List<String> devices) {
+        long created = Flux.fromIterable(devices)
+                .flatMap(deviceId -> client.post()
+                        .uri("/api/readings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue("{\"deviceId\":\"" + deviceId + "\",\"temperature\":25.5,\"temperatureLimit\":50.0}")
+                        .retrieve()
+                        .toBodilessEntity(), CONCURRENCY)
+                .filter(response -> response.getStatusCode().value() == 201)
+                .count()
+                .block(Duration.ofSeconds(30));
+
+        assertEquals(devices.size(), created);
+    }
+
+    private void useShards(int count) {
+        List<LoggingShardProperties.Shard> members = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LoggingShardProperties.Shard shard = new LoggingShardProperties.Shard();
+            shard.setId("shard-" + i);
+            shard.setUrl(SHARDS.get(i).url());
+            members.add(shard);
+        }
+        properties.setShards(members);
+        shardRouter.reload();
+    }
+
+    // Same number of devices per active shard, so the result measures the gateway, not hash variance.
+    private List<String> balancedDevices(int shards, int perShard) {
+        Map<String, Integer> load = new HashMap<>();
+        List<String> devices = new ArrayList<>();
+        for (int i = 0; devices.size() < shards * perShard; i++) {
+            String deviceId = String.format("ESP32-%05d", i);
+            String owner = shardRouter.shardFor(deviceId).id();
+            if (load.merge(owner, 1, Integer::sum) <= perShard) {
+                devices.add(deviceId);
+            }
+        }
+        return devices;
+    }
+
+    /**
+     * Logging-service stand-in that handles one request at a time, each taking SERVICE_TIME.
+     */
+    private static final class StubShard {
+
+        private final HttpServer server;
+        private final ExecutorService worker = Executors.newSingleThreadExecutor();
+        private final AtomicInteger handled = new AtomicInteger();
+
+        private StubShard() {
+            try {
+                server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            server.createContext("/", this::handle);
+            server.setExecutor(worker);
+            server.start();
+        }
+
+        private String url() {
+            return "http://localhost:" + server.getAddress().getPort();
+        }
+
+        private void stop() {
+            server.stop(0);
+            worker.shutdownNow();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(SERVICE_TIME.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handled.incrementAndGet();
+
+            byte[] bytes = "Sensor reading registered successfully.".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(201, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+}
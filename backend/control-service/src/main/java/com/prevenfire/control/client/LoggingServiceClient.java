@@ -0,0 +1,53 @@
+package com.prevenfire.control.client;
+
+import com.prevenfire.control.dto.ReadingTrendDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * HTTP client for logging-service, reached through the API Gateway so that
+ * requests land on the shard owning the device.
+ * Failures are swallowed on purpose: config retrieval by devices must never
+ * depend on logging-service being available.
+ */
+@Component
+public class LoggingServiceClient {
+
+    private final RestClient restClient;
+
+    public LoggingServiceClient(
+            RestClient.Builder builder,
+            @Value("${prevenfire.logging-service.url:http://localhost:8080}") String baseUrl,
+            @Value("${prevenfire.logging-service.timeout-ms:1000}") int timeoutMs
+    ) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(timeoutMs));
+        requestFactory.setReadTimeout(Duration.ofMillis(timeoutMs));
+
+        this.restClient = builder
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    /**
+     * Fetches the recent-trend summary for a device.
+     * Returns empty when the device has no readings or logging-service is unreachable.
+     */
+    public Optional<ReadingTrendDTO> getReadingTrend(String deviceId) {
+        try {
+            return Optional.ofNullable(restClient.get()
+                    .uri("/api/readings/{deviceId}/trend", deviceId)
+                    .retrieve()
+                    .body(ReadingTrendDTO.class));
+        } catch (RestClientException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.prevenfire.control.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Recent-trend summary published by logging-service at GET /api/readings/{deviceId}/trend.
+ */
+public record ReadingTrendDTO(
+
+    String deviceId,
+
+    Integer sampleCount,
+
+    Double latestTemperature,
+
+    // Temperature variation in °C per minute (positive = heating up).
+    Double slopePerMinute,
+
+    LocalDateTime latestTimestamp
+) {}
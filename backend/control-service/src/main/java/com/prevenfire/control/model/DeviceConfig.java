@@ -30,9 +30,21 @@ public class DeviceConfig {
     @Column(nullable = false)
     private Double effectiveTemperatureLimit;
 
+    // Operator-configured sensing interval: how often the device reads its sensor.
+    // Never changed by the adaptive policy.
     @Column(nullable = false)
     private Integer readingIntervalMs;
 
+    // How often the device sends readings to the backend. Adapted to the device's
+    // trend by ReadingIntervalPolicy; defaults to readingIntervalMs. Response-only: never stored.
+    @Transient
+    private Integer reportIntervalMs;
+
+    // True when reportIntervalMs in this response was adapted to the device's trend,
+    // false whenever the configured interval applies (never null).
+    @Transient
+    private boolean reportIntervalAdaptive;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -50,6 +62,10 @@ public class DeviceConfig {
         this.readingIntervalMs = 30000;
     }
 
+    public Integer getReportIntervalMs() {
+        return this.reportIntervalMs != null ? this.reportIntervalMs : this.readingIntervalMs;
+    }
+
     @PrePersist
     @PreUpdate
     public void ensureConsistency() {
@@ -7,13 +7,17 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 public class DeviceConfigService {
 
     private final DeviceConfigRepository repository;
+    private final ReadingIntervalPolicy intervalPolicy;
 
-    public DeviceConfigService(DeviceConfigRepository repository){
+    public DeviceConfigService(DeviceConfigRepository repository, ReadingIntervalPolicy intervalPolicy){
         this.repository = repository;
+        this.intervalPolicy = intervalPolicy;
     }
 
     /**
@@ -80,10 +84,36 @@ public class DeviceConfigService {
     /**
      * Retrieves a configuration. If absent, returns a transient default instance (not persisted).
      * Useful for embedded devices with no configs saved yet, avoiding errors.
+     * The reporting interval is adapted to the device's recent trend (see ReadingIntervalPolicy);
+     * the configured sensing interval is returned unchanged.
+     * The adapted value is set on a detached copy, so it can never leak into the managed entity.
      */
     public DeviceConfig getConfigByDeviceOrDefault(String deviceId) {
-        return repository.findById(deviceId)
+        DeviceConfig config = repository.findById(deviceId)
                 .orElseGet(() -> new DeviceConfig(deviceId));
+
+        Optional<Integer> adaptiveIntervalMs = intervalPolicy.adaptiveIntervalMs(config);
+        if (adaptiveIntervalMs.isEmpty()) {
+            return config;
+        }
+
+        DeviceConfig response = detachedCopy(config);
+        response.setReportIntervalMs(adaptiveIntervalMs.get());
+        response.setReportIntervalAdaptive(true);
+        return response;
+    }
+
+    // Copies the persisted values into a new, non-managed instance.
+    private DeviceConfig detachedCopy(DeviceConfig config) {
+        DeviceConfig copy = new DeviceConfig(config.getDeviceId());
+        copy.setTemperatureLimit(config.getTemperatureLimit());
+        copy.setHighToleranceEnabled(config.getHighToleranceEnabled());
+        copy.setHighToleranceReason(config.getHighToleranceReason());
+        copy.setEffectiveTemperatureLimit(config.getEffectiveTemperatureLimit());
+        copy.setReadingIntervalMs(config.getReadingIntervalMs());
+        copy.setCreatedAt(config.getCreatedAt());
+        copy.setUpdatedAt(config.getUpdatedAt());
+        return copy;
     }
 
     /**
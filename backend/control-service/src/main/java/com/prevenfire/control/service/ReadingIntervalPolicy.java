@@ -0,0 +1,83 @@
+package com.prevenfire.control.service;
+
+import com.prevenfire.control.client.LoggingServiceClient;
+import com.prevenfire.control.dto.ReadingTrendDTO;
+import com.prevenfire.control.model.DeviceConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Computes how often a device should report its readings, based on how close it is to its limit.
+ * - Far below the limit and stable: report rarely (up to maxMs).
+ * - Trending toward or above the limit: report often (down to minMs).
+ * Only reporting adapts: the device keeps sensing (and driving its LED) at its configured
+ * readingIntervalMs, or faster when the reporting interval is shorter, and reports
+ * immediately when it crosses the limit. Without a trend, it reports at the sensing rate.
+ */
+@Component
+public class ReadingIntervalPolicy {
+
+    private final LoggingServiceClient loggingClient;
+    private final boolean enabled;
+    private final int minMs;
+    private final int maxMs;
+    private final double horizonMinutes;
+    private final double safeHeadroom;
+
+    public ReadingIntervalPolicy(
+            LoggingServiceClient loggingClient,
+            @Value("${prevenfire.reading-interval.adaptive-enabled:true}") boolean enabled,
+            @Value("${prevenfire.reading-interval.min-ms:5000}") int minMs,
+            @Value("${prevenfire.reading-interval.max-ms:300000}") int maxMs,
+            @Value("${prevenfire.reading-interval.horizon-minutes:5}") double horizonMinutes,
+            @Value("${prevenfire.reading-interval.safe-headroom:20}") double safeHeadroom
+    ) {
+        if (minMs <= 0 || maxMs < minMs) {
+            throw new IllegalArgumentException(
+                    "Invalid reading interval bounds: min-ms=" + minMs + ", max-ms=" + maxMs
+            );
+        }
+        this.loggingClient = loggingClient;
+        this.enabled = enabled;
+        this.minMs = minMs;
+        this.maxMs = maxMs;
+        this.horizonMinutes = horizonMinutes;
+        this.safeHeadroom = safeHeadroom;
+    }
+
+    /**
+     * Computes the adaptive interval for a device from its recent trend.
+     * Returns empty when the policy is disabled or no trend is available,
+     * meaning the configured interval applies.
+     */
+    public Optional<Integer> adaptiveIntervalMs(DeviceConfig config) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        return loggingClient.getReadingTrend(config.getDeviceId())
+                .map(trend -> computeIntervalMs(trend, config.getEffectiveTemperatureLimit()));
+    }
+
+    /**
+     * Scales the interval linearly with the projected headroom below the limit.
+     * Only rising trends are projected forward; a cooling device is judged by its latest value.
+     */
+    public int computeIntervalMs(ReadingTrendDTO trend, double effectiveLimit) {
+        double slope = trend.slopePerMinute() != null ? Math.max(trend.slopePerMinute(), 0.0) : 0.0;
+        double projected = trend.latestTemperature() + slope * horizonMinutes;
+        double headroom = effectiveLimit - projected;
+
+        if (headroom <= 0) {
+            return minMs;
+        }
+        if (headroom >= safeHeadroom) {
+            return maxMs;
+        }
+
+        double ratio = headroom / safeHeadroom;
+        return (int) Math.round(minMs + (maxMs - minMs) * ratio);
+    }
+}
@@ -4,6 +4,7 @@ import com.prevenfire.control.dto.DeviceConfigRequestDTO;
 import com.prevenfire.control.model.DeviceConfig;
 import com.prevenfire.control.repository.DeviceConfigRepository;
 import com.prevenfire.control.service.DeviceConfigService;
+import com.prevenfire.control.service.ReadingIntervalPolicy;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +24,9 @@ class DeviceConfigServiceTest {
 	@Mock
     private DeviceConfigRepository repository;
 
+    @Mock
+    private ReadingIntervalPolicy intervalPolicy;
+
     @InjectMocks
     private DeviceConfigService service;
 
@@ -97,11 +101,33 @@ class DeviceConfigServiceTest {
     void shouldReturnDefaultTransientIfNotFound() {
         String deviceId = "ESP32-TOM-SALES";
         when(repository.findById(deviceId)).thenReturn(Optional.empty());
+        when(intervalPolicy.adaptiveIntervalMs(any(DeviceConfig.class))).thenReturn(Optional.empty());
 
         DeviceConfig result = service.getConfigByDeviceOrDefault(deviceId);
 
         assertNotNull(result);
         assertEquals("ESP32-TOM-SALES", result.getDeviceId());
         assertNotNull(result.getEffectiveTemperatureLimit());
+        assertFalse(result.isReportIntervalAdaptive()); // Fallback path: explicit false, not null
+        assertEquals(result.getReadingIntervalMs(), result.getReportIntervalMs());
+    }
+
+    @Test
+    @DisplayName("Should return adaptive reporting interval on a detached copy, keeping the sensing interval")
+    void shouldApplyAdaptiveIntervalOnDetachedCopy() {
+        String deviceId = "ESP32-ADAPTIVE";
+        DeviceConfig configInDB = new DeviceConfig(deviceId);
+
+        when(repository.findById(deviceId)).thenReturn(Optional.of(configInDB));
+        when(intervalPolicy.adaptiveIntervalMs(configInDB)).thenReturn(Optional.of(5000));
+
+        DeviceConfig result = service.getConfigByDeviceOrDefault(deviceId);
+
+        assertNotSame(configInDB, result);
+        assertEquals(5000, result.getReportIntervalMs());
+        assertTrue(result.isReportIntervalAdaptive());
+        assertEquals(30000, result.getReadingIntervalMs()); // Sensing interval kept
+        assertEquals(30000, configInDB.getReportIntervalMs()); // Managed entity untouched
+        verify(repository, never()).save(any(DeviceConfig.class));
     }
 }
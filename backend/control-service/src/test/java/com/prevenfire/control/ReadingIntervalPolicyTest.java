@@ -0,0 +1,98 @@
+package com.prevenfire.control;
+
+import com.prevenfire.control.client.LoggingServiceClient;
+import com.prevenfire.control.dto.ReadingTrendDTO;
+import com.prevenfire.control.model.DeviceConfig;
+import com.prevenfire.control.service.ReadingIntervalPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReadingIntervalPolicyTest {
+
+    @Mock
+    private LoggingServiceClient loggingClient;
+
+    private ReadingIntervalPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        policy = new ReadingIntervalPolicy(loggingClient, true, 5000, 300000, 5, 20);
+    }
+
+    @Test
+    @DisplayName("Should use max interval when far below the limit and stable")
+    void shouldUseMaxIntervalWhenStable() {
+        assertEquals(300000, policy.computeIntervalMs(trend(22.0, 0.0), 50.0));
+    }
+
+    @Test
+    @DisplayName("Should use min interval when projected trend reaches the limit")
+    void shouldUseMinIntervalWhenTrendingToLimit() {
+        // 40°C rising 2°C/min -> 50°C within the 5 minute horizon
+        assertEquals(5000, policy.computeIntervalMs(trend(40.0, 2.0), 50.0));
+    }
+
+    @Test
+    @DisplayName("Should shorten interval proportionally to remaining headroom")
+    void shouldScaleIntervalWithHeadroom() {
+        // 10°C headroom out of 20°C safe headroom -> halfway between bounds
+        assertEquals(152500, policy.computeIntervalMs(trend(40.0, 0.0), 50.0));
+    }
+
+    @Test
+    @DisplayName("Should fall back to configured interval when no trend is available")
+    void shouldFallBackWhenTrendUnavailable() {
+        DeviceConfig config = new DeviceConfig("ESP32-NEW");
+        when(loggingClient.getReadingTrend("ESP32-NEW")).thenReturn(Optional.empty());
+
+        assertTrue(policy.adaptiveIntervalMs(config).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject inverted interval bounds")
+    void shouldRejectInvalidBounds() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReadingIntervalPolicy(loggingClient, true, 60000, 5000, 5, 20));
+    }
+
+    @Test
+    @DisplayName("Simulation: idle fleet should send far fewer readings than the fixed 30s interval")
+    void shouldReduceIngestVolumeForIdleFleet() {
+        // 1000 devices over one hour: 95% idle at ambient temperature, 5% heating toward the limit.
+        int devices = 1000;
+        long windowMs = 3_600_000;
+        long fixedReadings = devices * (windowMs / 30000);
+
+        long adaptiveReadings = 0;
+        for (int i = 0; i < devices; i++) {
+            boolean heating = i % 20 == 0;
+            double temperature = heating ? 35.0 : 22.0 + (i % 5);
+            double slope = heating ? 0.5 : 0.0;
+
+            long elapsed = 0;
+            while (elapsed < windowMs) {
+                int intervalMs = policy.computeIntervalMs(trend(temperature, slope), 50.0);
+                elapsed += intervalMs;
+                temperature += slope * intervalMs / 60000.0;
+                adaptiveReadings++;
+            }
+        }
+
+        assertTrue(adaptiveReadings < fixedReadings / 2);
+    }
+
+    private ReadingTrendDTO trend(double latestTemperature, double slopePerMinute) {
+        return new ReadingTrendDTO("ESP32", 10, latestTemperature, slopePerMinute, LocalDateTime.now());
+    }
+}
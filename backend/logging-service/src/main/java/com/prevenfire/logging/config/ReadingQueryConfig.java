@@ -0,0 +1,23 @@
+package com.prevenfire.logging.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ReadingQueryConfig {
+
+    /**
+     * Bounded pool for per-device queries of the merged history endpoint.
+     * Kept below the JDBC pool size so other requests still get connections.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService readingQueryExecutor(
+            @Value("${prevenfire.readings.query-threads:4}") int threads
+    ) {
+        return Executors.newFixedThreadPool(threads);
+    }
+}
@@ -1,13 +1,18 @@
 package com.prevenfire.logging.controller;
 
+import com.prevenfire.logging.dto.ReadingPageDTO;
+import com.prevenfire.logging.dto.ReadingTrendDTO;
 import com.prevenfire.logging.dto.SensorReadingRequestDTO;
 import com.prevenfire.logging.model.SensorReading;
+import com.prevenfire.logging.service.MergedReadingService;
 import com.prevenfire.logging.service.SensorReadingService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -15,9 +20,11 @@ import java.util.List;
 public class SensorReadingController {
 
     private final SensorReadingService service;
+    private final MergedReadingService mergedService;
 
-    public SensorReadingController(SensorReadingService service) {
+    public SensorReadingController(SensorReadingService service, MergedReadingService mergedService) {
         this.service = service;
+        this.mergedService = mergedService;
     }
 
     /**
@@ -42,6 +49,26 @@ public class SensorReadingController {
                 .body("Sensor reading registered successfully.");
     }
 
+    /**
+     * Endpoint: GET /api/readings?deviceIds=a,b,c&limit=&before=&beforeId=
+     * Returns one page of the merged timeline of several devices, newest first.
+     * Pass nextBefore/nextBeforeId from the previous page to fetch the next one.
+     */
+    @GetMapping
+    public ResponseEntity<?> getMergedSensorReadings(
+            @RequestParam List<String> deviceIds,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+            @RequestParam(required = false) Long beforeId
+    ) {
+        try {
+            ReadingPageDTO page = mergedService.getMergedReadings(deviceIds, limit, before, beforeId);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     /**
      * Endpoint: GET /api/readings/{deviceId}
      * Returns the full history for a device.
@@ -54,13 +81,36 @@ public class SensorReadingController {
     }
 
     /**
-     * Endpoint: GET /api/readings/{deviceId}/criticals
+     * Endpoint: GET /api/readings/{deviceId}/criticals?limit=
      * Returns only the readings where the limit was exceeded.
+     * Without limit the full critical history is returned; with it, only the most recent ones.
      */
     @GetMapping("/{deviceId}/criticals")
-    public ResponseEntity<List<SensorReading>> getCriticalReadingsByDeviceId(@PathVariable String deviceId) {
-        List<SensorReading> readings = service.getCriticalReadingsByDevice(deviceId);
+    public ResponseEntity<?> getCriticalReadingsByDeviceId(
+            @PathVariable String deviceId,
+            @RequestParam(required = false) Integer limit
+    ) {
+        if (limit == null) {
+            return ResponseEntity.ok(service.getCriticalReadingsByDevice(deviceId));
+        }
+        if (limit < 1) {
+            return ResponseEntity.badRequest().body("Limit must be at least 1");
+        }
 
-        return ResponseEntity.ok(readings);
+        return ResponseEntity.ok(service.getRecentCriticalReadingsByDevice(deviceId, limit));
+    }
+
+    /**
+     * Endpoint: GET /api/readings/{deviceId}/trend
+     * Returns a compact summary of the latest readings, or 404 if the device has none.
+     */
+    @GetMapping("/{deviceId}/trend")
+    public ResponseEntity<?> getReadingTrendByDeviceId(@PathVariable String deviceId) {
+        ReadingTrendDTO trend = service.getReadingTrendByDevice(deviceId);
+        if (trend == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("No readings found for ID: " + deviceId);
+        }
+
+        return ResponseEntity.ok(trend);
     }
 }
@@ -0,0 +1,81 @@
+package com.prevenfire.logging.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prevenfire.logging.dto.SensorReadingImportDTO;
+import com.prevenfire.logging.service.SensorReadingService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Operations used by the gateway's rebalance tool to move device histories between shards.
+ * Actuator endpoint, so it is served only on the management port (management.server.port,
+ * bound to 127.0.0.1) and not on the client-facing port:
+ * - GET    /actuator/shard             devices stored on this shard
+ * - POST   /actuator/shard             {"readings": [...]} stores readings copied from another shard
+ * - DELETE /actuator/shard/{deviceId}  drops a device history once it has been moved
+ */
+@Component
+@Endpoint(id = "shard")
+public class ShardMaintenanceEndpoint {
+
+    private final SensorReadingService service;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public ShardMaintenanceEndpoint(SensorReadingService service, ObjectMapper objectMapper, Validator validator) {
+        this.service = service;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    @ReadOperation
+    public List<String> devices() {
+        return service.getDeviceIds();
+    }
+
+    /**
+     * Returns the number of readings actually inserted (already present ones are skipped).
+     */
+    @WriteOperation
+    public int importReadings(List<Map<String, Object>> readings) {
+        List<SensorReadingImportDTO> dtos = readings.stream()
+                .map(this::toValidDto)
+                .toList();
+
+        return service.importReadings(dtos);
+    }
+
+    @DeleteOperation
+    public void deleteReadings(@Selector String deviceId) {
+        service.deleteReadingsByDevice(deviceId);
+    }
+
+    // Actuator binds operation parameters without @Valid, so conversion and validation happen here.
+    private SensorReadingImportDTO toValidDto(Map<String, Object> reading) {
+        SensorReadingImportDTO dto;
+        try {
+            dto = objectMapper.convertValue(reading, SensorReadingImportDTO.class);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException("Invalid reading: " + e.getMessage(), "Invalid reading");
+        }
+
+        Set<ConstraintViolation<SensorReadingImportDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<SensorReadingImportDTO> violation = violations.iterator().next();
+            String message = "Invalid reading: " + violation.getPropertyPath() + " " + violation.getMessage();
+            throw new InvalidEndpointRequestException(message, message);
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,20 @@
+package com.prevenfire.logging.dto;
+
+import com.prevenfire.logging.model.SensorReading;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One page of a merged multi-device timeline, newest first.
+ * The next page is requested with before=nextBefore&beforeId=nextBeforeId;
+ * both are null when there are no more readings.
+ */
+public record ReadingPageDTO(
+
+    List<SensorReading> readings,
+
+    LocalDateTime nextBefore,
+
+    Long nextBeforeId
+) {}
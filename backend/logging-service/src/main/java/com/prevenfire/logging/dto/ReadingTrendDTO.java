@@ -0,0 +1,21 @@
+package com.prevenfire.logging.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compact summary of a device's recent readings.
+ * Consumed by control-service to adapt the device's reading interval.
+ */
+public record ReadingTrendDTO(
+
+    String deviceId,
+
+    Integer sampleCount,
+
+    Double latestTemperature,
+
+    // Least-squares temperature variation over the sample window, in °C per minute.
+    Double slopePerMinute,
+
+    LocalDateTime latestTimestamp
+) {}
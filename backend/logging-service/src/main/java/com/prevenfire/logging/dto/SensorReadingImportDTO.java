@@ -0,0 +1,27 @@
+package com.prevenfire.logging.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reading copied from another shard during a rebalance.
+ * Unlike SensorReadingRequestDTO, the original timestamp and isOverLimit flag are preserved.
+ */
+public record SensorReadingImportDTO(
+
+    @NotBlank(message = "Device ID is mandatory")
+    String deviceId,
+
+    @NotNull(message = "Temperature is mandatory")
+    Double temperature,
+
+    @NotNull(message = "Limit is mandatory")
+    Double temperatureLimit,
+
+    Boolean isOverLimit,
+
+    @NotNull(message = "Timestamp is mandatory")
+    LocalDateTime timestamp
+) {}
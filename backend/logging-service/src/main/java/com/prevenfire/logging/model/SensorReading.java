@@ -9,7 +9,10 @@ import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "tb_sensor_readings")
+@Table(
+        name = "tb_sensor_readings",
+        indexes = @Index(name = "idx_sensor_readings_device_timestamp_id", columnList = "deviceId, timestamp, id")
+)
 public class SensorReading {
 
     @Id
@@ -1,9 +1,14 @@
 package com.prevenfire.logging.repository;
 
 import com.prevenfire.logging.model.SensorReading;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -28,4 +33,87 @@ public interface SensorReadingRepository extends JpaRepository<SensorReading, Lo
      * @return List of readings flagged as over limit.
      */
     List<SensorReading> findByDeviceIdAndIsOverLimitIsTrueOrderByTimestampDesc(String deviceId);
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the most recent critical readings, bounded by the page size.
+     *
+     * @param deviceId The unique identifier of the source device.
+     * @param pageable Maximum number of readings to return.
+     * @return Readings flagged as over limit, newest first.
+     */
+    List<SensorReading> findByDeviceIdAndIsOverLimitIsTrueOrderByTimestampDesc(String deviceId, Pageable pageable);
+
+    /**
+     * Retrieves the most recent readings for a device, newest first.
+     * Used to build the compact trend summary without loading the full history.
+     *
+     * @param deviceId The unique identifier of the source device.
+     * @return Up to the last 10 readings sorted by timestamp descending.
+     */
+    List<SensorReading> findTop10ByDeviceIdOrderByTimestampDesc(String deviceId);
+
+    /**
+     * Retrieves the first page of a device's readings, newest first.
+     *
+     * @param deviceId The unique identifier of the source device.
+     * @param pageable Page size (the page number is always 0 for cursor pagination).
+     * @return Readings sorted by timestamp and id descending.
+     */
+    List<SensorReading> findByDeviceIdOrderByTimestampDescIdDesc(String deviceId, Pageable pageable);
+
+    /**
+     * Retrieves a page of readings older than the (before, beforeId) cursor, newest first.
+     * The id breaks ties between readings sharing the same timestamp.
+     * The leading {@code timestamp <= :before} conjunct gives the planner an index range,
+     * so the (deviceId, timestamp, id) index is scanned from the cursor instead of from the newest row.
+     *
+     * @param deviceId The unique identifier of the source device.
+     * @param before   Exclusive upper bound on the timestamp.
+     * @param beforeId Exclusive upper bound on the id for readings at exactly {@code before}.
+     * @param pageable Page size (the page number is always 0 for cursor pagination).
+     * @return Readings sorted by timestamp and id descending.
+     */
+    @Query("""
+            SELECT r FROM SensorReading r
+            WHERE r.deviceId = :deviceId
+              AND r.timestamp <= :before
+              AND (r.timestamp < :before OR r.id < :beforeId)
+            ORDER BY r.timestamp DESC, r.id DESC
+            """)
+    List<SensorReading> findPageBefore(
+            @Param("deviceId") String deviceId,
+            @Param("before") LocalDateTime before,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable
+    );
+
+    /**
+     * Lists every device that has at least one reading on this instance.
+     * Used by the gateway's rebalance tool to find devices owned by another shard.
+     *
+     * @return Distinct device identifiers.
+     */
+    @Query("SELECT DISTINCT r.deviceId FROM SensorReading r")
+    List<String> findDistinctDeviceIds();
+
+    /**
+     * Retrieves a device's readings within a time range.
+     * Used to skip readings that a previous, interrupted rebalance already imported.
+     *
+     * @param deviceId The unique identifier of the source device.
+     * @param from     Inclusive lower bound.
+     * @param to       Inclusive upper bound.
+     * @return Stored readings in the range.
+     */
+    List<SensorReading> findByDeviceIdAndTimestampBetween(String deviceId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Deletes a device's full history in a single statement.
+     *
+     * @param deviceId The unique identifier of the source device.
+     * @return Number of deleted readings.
+     */
+    @Modifying
+    @Query("DELETE FROM SensorReading r WHERE r.deviceId = :deviceId")
+    int deleteAllByDeviceId(@Param("deviceId") String deviceId);
+}
@@ -0,0 +1,164 @@
+package com.prevenfire.logging.service;
+
+import com.prevenfire.logging.dto.ReadingPageDTO;
+import com.prevenfire.logging.model.SensorReading;
+import com.prevenfire.logging.repository.SensorReadingRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Builds a single timeline across many devices.
+ * Each device is read through its own cursor in small index-ordered batches
+ * (first batches fetched in parallel), and the cursors are combined with a
+ * k-way merge on (timestamp, id). Memory stays bounded by
+ * devices * batch size instead of the devices' full histories.
+ */
+@Service
+public class MergedReadingService {
+
+    // Smallest batch fetched per device, to avoid one query per row on skewed timelines.
+    private static final int MIN_BATCH_SIZE = 10;
+
+    private static final Comparator<DeviceCursor> NEWEST_FIRST = Comparator
+            .comparing((DeviceCursor cursor) -> cursor.peek().getTimestamp())
+            .thenComparing(cursor -> cursor.peek().getId())
+            .reversed();
+
+    private final SensorReadingRepository repository;
+    private final Executor executor;
+    private final int maxDevices;
+    private final int maxLimit;
+
+    public MergedReadingService(
+            SensorReadingRepository repository,
+            @Qualifier("readingQueryExecutor") Executor executor,
+            @Value("${prevenfire.readings.max-devices:500}") int maxDevices,
+            @Value("${prevenfire.readings.max-limit:500}") int maxLimit
+    ) {
+        this.repository = repository;
+        this.executor = executor;
+        this.maxDevices = maxDevices;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Returns up to {@code limit} readings across the given devices, newest first,
+     * strictly older than the (before, beforeId) cursor when provided.
+     * Throws IllegalArgumentException on an empty device list or out-of-range limit.
+     */
+    public ReadingPageDTO getMergedReadings(List<String> deviceIds, int limit, LocalDateTime before, Long beforeId) {
+        List<String> devices = deviceIds.stream()
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .distinct()
+                .toList();
+
+        if (devices.isEmpty()) {
+            throw new IllegalArgumentException("At least one device ID is required");
+        }
+        if (devices.size() > maxDevices) {
+            throw new IllegalArgumentException("Too many devices: maximum is " + maxDevices);
+        }
+        if (limit < 1 || limit > maxLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxLimit);
+        }
+
+        // Without beforeId the cursor is a plain timestamp: only strictly older readings.
+        Long cursorId = (before != null && beforeId == null) ? Long.MIN_VALUE : beforeId;
+        int batchSize = Math.min(limit, Math.max(MIN_BATCH_SIZE, (limit + devices.size() - 1) / devices.size()));
+
+        // Fetch the first batch of every device in parallel.
+        List<CompletableFuture<DeviceCursor>> futures = devices.stream()
+                .map(deviceId -> new DeviceCursor(deviceId, batchSize, before, cursorId))
+                .map(cursor -> CompletableFuture.supplyAsync(cursor::fill, executor))
+                .toList();
+
+        PriorityQueue<DeviceCursor> heap = new PriorityQueue<>(devices.size(), NEWEST_FIRST);
+        for (CompletableFuture<DeviceCursor> future : futures) {
+            DeviceCursor cursor = future.join();
+            if (cursor.hasNext()) {
+                heap.add(cursor);
+            }
+        }
+
+        List<SensorReading> page = new ArrayList<>(limit);
+        while (page.size() < limit && !heap.isEmpty()) {
+            DeviceCursor cursor = heap.poll();
+            page.add(cursor.next());
+            if (cursor.hasNext()) {
+                heap.add(cursor);
+            }
+        }
+
+        // Any remaining cursor means there are older readings to page into.
+        if (heap.isEmpty() || page.isEmpty()) {
+            return new ReadingPageDTO(page, null, null);
+        }
+        SensorReading last = page.get(page.size() - 1);
+        return new ReadingPageDTO(page, last.getTimestamp(), last.getId());
+    }
+
+    /**
+     * Lazily paginated view of one device's readings, newest first.
+     * Refills its buffer from the repository only when it runs empty.
+     */
+    private final class DeviceCursor {
+
+        private final String deviceId;
+        private final int batchSize;
+        private final Deque<SensorReading> buffer = new ArrayDeque<>();
+        private LocalDateTime before;
+        private Long beforeId;
+        private boolean exhausted;
+
+        private DeviceCursor(String deviceId, int batchSize, LocalDateTime before, Long beforeId) {
+            this.deviceId = deviceId;
+            this.batchSize = batchSize;
+            this.before = before;
+            this.beforeId = beforeId;
+        }
+
+        private DeviceCursor fill() {
+            PageRequest pageRequest = PageRequest.of(0, batchSize);
+            List<SensorReading> batch = (before == null)
+                    ? repository.findByDeviceIdOrderByTimestampDescIdDesc(deviceId, pageRequest)
+                    : repository.findPageBefore(deviceId, before, beforeId, pageRequest);
+
+            buffer.addAll(batch);
+            exhausted = batch.size() < batchSize;
+            if (!batch.isEmpty()) {
+                SensorReading last = batch.get(batch.size() - 1);
+                before = last.getTimestamp();
+                beforeId = last.getId();
+            }
+            return this;
+        }
+
+        private boolean hasNext() {
+            if (buffer.isEmpty() && !exhausted) {
+                fill();
+            }
+            return !buffer.isEmpty();
+        }
+
+        private SensorReading peek() {
+            return buffer.peekFirst();
+        }
+
+        private SensorReading next() {
+            return buffer.pollFirst();
+        }
+    }
+}
@@ -1,12 +1,21 @@
 package com.prevenfire.logging.service;
 
+import com.prevenfire.logging.dto.ReadingTrendDTO;
+import com.prevenfire.logging.dto.SensorReadingImportDTO;
 import com.prevenfire.logging.dto.SensorReadingRequestDTO;
 import com.prevenfire.logging.model.SensorReading;
 import com.prevenfire.logging.repository.SensorReadingRepository;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 public class SensorReadingService {
@@ -34,6 +43,81 @@ public class SensorReadingService {
         return repository.save(sensorReadingModel);
     }
 
+    /**
+     * Persists readings moved from another shard, keeping their original timestamp
+     * and isOverLimit flag (recomputed by @PrePersist only when absent).
+     * Idempotent: an incoming reading is skipped only when the target already stores a reading
+     * with the same content (timestamp, temperature, limit, isOverLimit). Each stored row
+     * matches at most one incoming row, so distinct readings sharing a timestamp are all kept
+     * and an interrupted rebalance can be re-run without duplicating history.
+     * Returns the number of readings actually inserted.
+     */
+    @Transactional
+    public int importReadings(List<SensorReadingImportDTO> readings) {
+        Map<String, List<SensorReadingImportDTO>> byDevice = readings.stream()
+                .collect(Collectors.groupingBy(SensorReadingImportDTO::deviceId));
+
+        List<SensorReading> models = new ArrayList<>();
+        byDevice.forEach((deviceId, batch) -> {
+            LocalDateTime from = batch.stream().map(SensorReadingImportDTO::timestamp).min(LocalDateTime::compareTo).orElseThrow();
+            LocalDateTime to = batch.stream().map(SensorReadingImportDTO::timestamp).max(LocalDateTime::compareTo).orElseThrow();
+
+            // Multiset of what the target already has: each stored row cancels one incoming copy.
+            Map<ReadingContent, Integer> stored = new HashMap<>();
+            for (SensorReading existing : repository.findByDeviceIdAndTimestampBetween(deviceId, from, to)) {
+                stored.merge(ReadingContent.of(existing), 1, Integer::sum);
+            }
+
+            for (SensorReadingImportDTO dto : batch) {
+                SensorReading model = toModel(dto);
+                ReadingContent content = ReadingContent.of(model);
+                if (stored.getOrDefault(content, 0) > 0) {
+                    stored.merge(content, -1, Integer::sum);
+                } else {
+                    models.add(model);
+                }
+            }
+        });
+
+        return repository.saveAll(models).size();
+    }
+
+    private SensorReading toModel(SensorReadingImportDTO dto) {
+        SensorReading model = new SensorReading();
+        model.setDeviceId(dto.deviceId());
+        model.setTemperature(dto.temperature());
+        model.setTemperatureLimit(dto.temperatureLimit());
+        model.setTimestamp(dto.timestamp());
+        // Same rule as @PrePersist, resolved up front so it can be compared with stored rows.
+        model.setIsOverLimit(dto.isOverLimit() != null
+                ? dto.isOverLimit()
+                : dto.temperature() > dto.temperatureLimit());
+        return model;
+    }
+
+    // Identity of a reading for import deduplication (the id differs between shards).
+    private record ReadingContent(LocalDateTime timestamp, Double temperature, Double temperatureLimit, Boolean isOverLimit) {
+
+        private static ReadingContent of(SensorReading reading) {
+            return new ReadingContent(
+                    reading.getTimestamp(), reading.getTemperature(),
+                    reading.getTemperatureLimit(), reading.getIsOverLimit()
+            );
+        }
+    }
+
+    public List<String> getDeviceIds() {
+        return repository.findDistinctDeviceIds();
+    }
+
+    /**
+     * Deletes a device's full history. Returns the number of deleted readings.
+     */
+    @Transactional
+    public int deleteReadingsByDevice(String deviceId) {
+        return repository.deleteAllByDeviceId(deviceId);
+    }
+
     public List<SensorReading> getReadingsByDevice(String deviceId) {
         return repository.findByDeviceIdOrderByTimestampDesc(deviceId);
     }
@@ -41,4 +125,60 @@ public class SensorReadingService {
     public List<SensorReading> getCriticalReadingsByDevice(String deviceId) {
         return repository.findByDeviceIdAndIsOverLimitIsTrueOrderByTimestampDesc(deviceId);
     }
+
+    /**
+     * Returns only the {@code limit} most recent critical readings.
+     */
+    public List<SensorReading> getRecentCriticalReadingsByDevice(String deviceId, int limit) {
+        return repository.findByDeviceIdAndIsOverLimitIsTrueOrderByTimestampDesc(deviceId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Summarizes the device's most recent readings (latest value and slope).
+     * Returns null when the device has no readings yet.
+     */
+    public ReadingTrendDTO getReadingTrendByDevice(String deviceId) {
+        List<SensorReading> recent = repository.findTop10ByDeviceIdOrderByTimestampDesc(deviceId);
+        if (recent.isEmpty()) {
+            return null;
+        }
+
+        SensorReading latest = recent.get(0);
+        return new ReadingTrendDTO(
+                deviceId,
+                recent.size(),
+                latest.getTemperature(),
+                computeSlopePerMinute(recent),
+                latest.getTimestamp()
+        );
+    }
+
+    /**
+     * Least-squares slope of temperature over time, in °C per minute.
+     * Returns 0 when there are fewer than two samples or they share the same timestamp.
+     */
+    private double computeSlopePerMinute(List<SensorReading> readings) {
+        if (readings.size() < 2) {
+            return 0.0;
+        }
+
+        // Readings are newest first; the oldest one is the time origin.
+        LocalDateTime origin = readings.get(readings.size() - 1).getTimestamp();
+        double sumX = 0, sumY = 0, sumXY = 0, sumXX = 0;
+        for (SensorReading reading : readings) {
+            double x = Duration.between(origin, reading.getTimestamp()).toMillis() / 60000.0;
+            double y = reading.getTemperature();
+            sumX += x;
+            sumY += y;
+            sumXY += x * y;
+            sumXX += x * x;
+        }
+
+        int n = readings.size();
+        double denominator = n * sumXX - sumX * sumX;
+        if (denominator == 0) {
+            return 0.0;
+        }
+        return (n * sumXY - sumX * sumY) / denominator;
+    }
 }
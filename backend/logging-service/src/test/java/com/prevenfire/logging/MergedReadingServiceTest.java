@@ -0,0 +1,125 @@
+package com.prevenfire.logging;
+
+import com.prevenfire.logging.dto.ReadingPageDTO;
+import com.prevenfire.logging.model.SensorReading;
+import com.prevenfire.logging.repository.SensorReadingRepository;
+import com.prevenfire.logging.service.MergedReadingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class MergedReadingServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private SensorReadingRepository repository;
+
+    private MergedReadingService service;
+
+    private final List<SensorReading> storage = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Same-thread executor keeps the test deterministic.
+        service = new MergedReadingService(repository, Runnable::run, 500, 500);
+
+        // Simulates the indexed queries over an in-memory table.
+        lenient().when(repository.findByDeviceIdOrderByTimestampDescIdDesc(anyString(), any(Pageable.class)))
+                .thenAnswer(i -> query(i.getArgument(0), null, null, i.getArgument(1)));
+        lenient().when(repository.findPageBefore(anyString(), any(LocalDateTime.class), any(Long.class), any(Pageable.class)))
+                .thenAnswer(i -> query(i.getArgument(0), i.getArgument(1), i.getArgument(2), i.getArgument(3)));
+    }
+
+    @Test
+    @DisplayName("Should merge devices into one timeline ordered by timestamp descending")
+    void shouldMergeDevicesNewestFirst() {
+        addReading(1L, "A", 0);
+        addReading(2L, "B", 1);
+        addReading(3L, "A", 2);
+        addReading(4L, "C", 3);
+        addReading(5L, "B", 4);
+
+        ReadingPageDTO page = service.getMergedReadings(List.of("A", "B", "C"), 10, null, null);
+
+        assertEquals(List.of(5L, 4L, 3L, 2L, 1L), page.readings().stream().map(SensorReading::getId).toList());
+        assertNull(page.nextBefore());
+        assertNull(page.nextBeforeId());
+    }
+
+    @Test
+    @DisplayName("Should page through the merged timeline with the returned cursor without gaps or duplicates")
+    void shouldPaginateWithCursor() {
+        long id = 1;
+        for (int minute = 0; minute < 30; minute++) {
+            addReading(id++, "A", minute);
+            // B shares A's timestamps to exercise the id tie-breaker
+            addReading(id++, "B", minute);
+        }
+
+        List<Long> collected = new ArrayList<>();
+        ReadingPageDTO page = service.getMergedReadings(List.of("A", "B"), 7, null, null);
+        collected.addAll(page.readings().stream().map(SensorReading::getId).toList());
+        while (page.nextBefore() != null) {
+            assertEquals(7, page.readings().size());
+            page = service.getMergedReadings(List.of("A", "B"), 7, page.nextBefore(), page.nextBeforeId());
+            collected.addAll(page.readings().stream().map(SensorReading::getId).toList());
+        }
+
+        List<Long> expected = new ArrayList<>();
+        for (long i = 60; i >= 1; i--) {
+            expected.add(i);
+        }
+        assertEquals(expected, collected);
+    }
+
+    @Test
+    @DisplayName("Should reject empty device list and out-of-range limit")
+    void shouldRejectInvalidRequests() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getMergedReadings(List.of(" "), 10, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getMergedReadings(List.of("A"), 0, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getMergedReadings(List.of("A"), 501, null, null));
+    }
+
+    private void addReading(Long id, String deviceId, int minute) {
+        SensorReading reading = new SensorReading();
+        reading.setId(id);
+        reading.setDeviceId(deviceId);
+        reading.setTemperature(25.0);
+        reading.setTemperatureLimit(50.0);
+        reading.setIsOverLimit(false);
+        reading.setTimestamp(BASE.plusMinutes(minute));
+        storage.add(reading);
+    }
+
+    private List<SensorReading> query(String deviceId, LocalDateTime before, Long beforeId, Pageable pageable) {
+        return storage.stream()
+                .filter(r -> r.getDeviceId().equals(deviceId))
+                .filter(r -> before == null
+                        || r.getTimestamp().isBefore(before)
+                        || (r.getTimestamp().isEqual(before) && r.getId() < beforeId))
+                .sorted(Comparator.comparing(SensorReading::getTimestamp)
+                        .thenComparing(SensorReading::getId)
+                        .reversed())
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+}
@@ -1,5 +1,7 @@
 package com.prevenfire.logging;
 
+import com.prevenfire.logging.dto.ReadingTrendDTO;
+import com.prevenfire.logging.dto.SensorReadingImportDTO;
 import com.prevenfire.logging.dto.SensorReadingRequestDTO;
 import com.prevenfire.logging.model.SensorReading;
 import com.prevenfire.logging.repository.SensorReadingRepository;
@@ -10,9 +12,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 
@@ -41,4 +50,126 @@ class SensorReadingServiceTest {
 
         verify(repository).save(any(SensorReading.class));
     }
+
+    @Test
+    @DisplayName("Should summarize recent readings with latest value and slope per minute")
+    void shouldComputeReadingTrend() {
+        LocalDateTime now = LocalDateTime.now();
+        // Newest first, rising 2°C per minute
+        List<SensorReading> recent = List.of(
+                reading(34.0, now),
+                reading(32.0, now.minusMinutes(1)),
+                reading(30.0, now.minusMinutes(2))
+        );
+
+        when(repository.findTop10ByDeviceIdOrderByTimestampDesc("ESP32-TOM")).thenReturn(recent);
+
+        ReadingTrendDTO trend = service.getReadingTrendByDevice("ESP32-TOM");
+
+        assertNotNull(trend);
+        assertEquals(3, trend.sampleCount());
+        assertEquals(34.0, trend.latestTemperature());
+        assertEquals(2.0, trend.slopePerMinute(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should return null trend when device has no readings")
+    void shouldReturnNullTrendWhenNoReadings() {
+        when(repository.findTop10ByDeviceIdOrderByTimestampDesc("ESP32-EMPTY")).thenReturn(List.of());
+
+        assertNull(service.getReadingTrendByDevice("ESP32-EMPTY"));
+    }
+
+    @Test
+    @DisplayName("Should keep original timestamp and over-limit flag when importing from another shard")
+    void shouldPreserveFieldsOnImport() {
+        LocalDateTime original = LocalDateTime.of(2025, 1, 1, 12, 0);
+        SensorReadingImportDTO dto = new SensorReadingImportDTO("ESP32-TOM", 55.0, 50.0, true, original);
+
+        when(repository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        int imported = service.importReadings(List.of(dto));
+
+        assertEquals(1, imported);
+        verify(repository).saveAll(argThat((List<SensorReading> saved) ->
+                saved.get(0).getTimestamp().equals(original) && saved.get(0).getIsOverLimit()
+        ));
+    }
+
+    @Test
+    @DisplayName("Should skip readings already imported so a retried rebalance does not duplicate history")
+    void shouldSkipAlreadyImportedReadings() {
+        LocalDateTime first = LocalDateTime.of(2025, 1, 1, 12, 0);
+        LocalDateTime second = first.plusMinutes(1);
+        List<SensorReadingImportDTO> batch = List.of(
+                new SensorReadingImportDTO("ESP32-TOM", 30.0, 50.0, false, first),
+                new SensorReadingImportDTO("ESP32-TOM", 31.0, 50.0, false, second)
+        );
+
+        // First reading survived a previous, interrupted move
+        when(repository.findByDeviceIdAndTimestampBetween("ESP32-TOM", first, second))
+                .thenReturn(List.of(storedReading(30.0, 50.0, false, first)));
+        when(repository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        int imported = service.importReadings(batch);
+
+        assertEquals(1, imported);
+        verify(repository).saveAll(argThat((List<SensorReading> saved) ->
+                saved.size() == 1 && saved.get(0).getTimestamp().equals(second)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should import distinct readings that share a timestamp instead of merging them")
+    void shouldKeepSameTimestampReadingsOnImport() {
+        LocalDateTime instant = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<SensorReadingImportDTO> batch = List.of(
+                new SensorReadingImportDTO("ESP32-TOM", 30.0, 50.0, false, instant),
+                new SensorReadingImportDTO("ESP32-TOM", 30.0, 50.0, false, instant),
+                new SensorReadingImportDTO("ESP32-TOM", 52.0, 50.0, true, instant)
+        );
+
+        // Target already holds one of the two identical readings
+        when(repository.findByDeviceIdAndTimestampBetween("ESP32-TOM", instant, instant))
+                .thenReturn(List.of(storedReading(30.0, 50.0, false, instant)));
+        when(repository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        int imported = service.importReadings(batch);
+
+        assertEquals(2, imported);
+        verify(repository).saveAll(argThat((List<SensorReading> saved) ->
+                saved.size() == 2
+                        && saved.stream().filter(r -> r.getTemperature() == 30.0).count() == 1
+                        && saved.stream().filter(r -> r.getTemperature() == 52.0).count() == 1
+        ));
+    }
+
+    @Test
+    @DisplayName("Should push the criticals limit down to the repository as a page size")
+    void shouldLimitRecentCriticals() {
+        when(repository.findByDeviceIdAndIsOverLimitIsTrueOrderByTimestampDesc(
+                eq("ESP32-TOM"), argThat((Pageable page) -> page.getPageSize() == 5)
+        )).thenReturn(List.of());
+
+        assertTrue(service.getRecentCriticalReadingsByDevice("ESP32-TOM", 5).isEmpty());
+    }
+
+    private SensorReading reading(double temperature, LocalDateTime timestamp) {
+        SensorReading reading = new SensorReading();
+        reading.setDeviceId("ESP32-TOM");
+        reading.setTemperature(temperature);
+        reading.setTemperatureLimit(50.0);
+        reading.setTimestamp(timestamp);
+        return reading;
+    }
+
+    private SensorReading storedReading(double temperature, double limit, boolean overLimit, LocalDateTime timestamp) {
+        SensorReading reading = new SensorReading();
+        reading.setDeviceId("ESP32-TOM");
+        reading.setTemperature(temperature);
+        reading.setTemperatureLimit(limit);
+        reading.setIsOverLimit(overLimit);
+        reading.setTimestamp(timestamp);
+        return reading;
+    }
 }
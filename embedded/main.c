@@ -18,11 +18,16 @@ const char* DEVICE_ID = "YOUR_DEVICE_ID";
 
 // Temperature configuration placeholders
 float effectiveTemperatureLimit = 30.0;
+// Sensing interval (operator-configured): how often the sensor is read and the LED updated.
 int readingIntervalMs = 30000;
+// Reporting interval (adapted by the server): how often readings are sent to the backend.
+int reportIntervalMs = 30000;
 bool highToleranceEnabled = false;
 
 // Timing control
-unsigned long lastCycleTime = 0;
+unsigned long lastSampleTime = 0;
+unsigned long lastReportTime = 0;
+bool lastOverLimit = false;
 
 DHT dht(DHTPIN, DHTTYPE);
 HTTPClient http;
@@ -46,48 +51,57 @@ void setup() {
   Serial.print("Connected successfully. IP: ");
   Serial.println(WiFi.localIP());
 
-  // Initial cycle: fetch config + first reading
-  fullSensorCycle();
-  lastCycleTime = millis();
+  // Initial cycle: fetch config + first reading, always reported
+  sensorCycle(true);
+  lastSampleTime = millis();
 }
 
 void loop() {
   unsigned long currentTime = millis();
 
-  // Full cycle every readingIntervalMs: fetch config + read sensor + send reading
-  if (currentTime - lastCycleTime >= (unsigned long)readingIntervalMs) {
-    fullSensorCycle();
-    lastCycleTime = currentTime;
+  // Sense at the configured rate, or faster when the server asks for frequent reports.
+  unsigned long sampleIntervalMs = (unsigned long)min(readingIntervalMs, reportIntervalMs);
+  if (currentTime - lastSampleTime >= sampleIntervalMs) {
+    sensorCycle(false);
+    lastSampleTime = currentTime;
   }
 
   delay(100);
 }
 
-void fullSensorCycle() {
-  // 1. Always fetch fresh config first
-  fetchConfiguration();
-  delay(500);
-
-  // 2. Read sensor with updated config
+void sensorCycle(bool forceReport) {
+  // 1. Read sensor and drive the LED locally on every sample
   float temperature = dht.readTemperature();
-  if (!isnan(temperature)) {
-    // 3. Control LED
-    bool isOverLimit = temperature > effectiveTemperatureLimit;
+  if (isnan(temperature)) {
+    Serial.println("Failed to read DHT11 sensor");
+    return;
+  }
+
+  bool isOverLimit = temperature > effectiveTemperatureLimit;
+  digitalWrite(LED_PIN, isOverLimit ? HIGH : LOW);
+
+  // 2. Report when the interval elapsed, or immediately when the limit is crossed
+  bool crossedLimit = isOverLimit != lastOverLimit;
+  bool reportDue = millis() - lastReportTime >= (unsigned long)reportIntervalMs;
+  if (forceReport || reportDue || crossedLimit) {
+    // Fresh config first, so the reading carries the current effective limit
+    fetchConfiguration();
+    delay(500);
+    isOverLimit = temperature > effectiveTemperatureLimit;
     digitalWrite(LED_PIN, isOverLimit ? HIGH : LOW);
 
-    // 4. Send reading to backend
     sendTemperatureReading(temperature, effectiveTemperatureLimit);
-
-    // 5. Display on Serial
-    Serial.print("Temp: ");
-    Serial.print(temperature);
-    Serial.print("°C | Effective Limit: ");
-    Serial.print(effectiveTemperatureLimit);
-    Serial.print("°C | Over limit: ");
-    Serial.println(isOverLimit ? "YES" : "NO");
-  } else {
-    Serial.println("Failed to read DHT11 sensor");
+    lastReportTime = millis();
   }
+  lastOverLimit = isOverLimit;
+
+  // 3. Display on Serial
+  Serial.print("Temp: ");
+  Serial.print(temperature);
+  Serial.print("°C | Effective Limit: ");
+  Serial.print(effectiveTemperatureLimit);
+  Serial.print("°C | Over limit: ");
+  Serial.println(isOverLimit ? "YES" : "NO");
 }
 
 void fetchConfiguration() {
@@ -113,12 +127,16 @@ void fetchConfiguration() {
     if (!error) {
       effectiveTemperatureLimit = doc["effectiveTemperatureLimit"];
       readingIntervalMs = doc["readingIntervalMs"];
+      // Older backends do not send reportIntervalMs: report at the sensing rate.
+      reportIntervalMs = doc["reportIntervalMs"] | readingIntervalMs;
       highToleranceEnabled = doc["highToleranceEnabled"];
 
       Serial.print("Config updated - Effective Limit: ");
       Serial.print(effectiveTemperatureLimit);
-      Serial.print("°C | Interval: ");
+      Serial.print("°C | Sensing: ");
       Serial.print(readingIntervalMs / 1000);
+      Serial.print("s | Reporting: ");
+      Serial.print(reportIntervalMs / 1000);
       Serial.println("s");
     }
   } else {
@@ -219,6 +219,9 @@ export default function ConfigsScreen() {
                 keyboardType="numeric"
                 placeholder="Ex: 30"
             />
+            <Text style={tw`text-gray-400 text-xs mt-1`}>
+              O sensor é lido sempre neste intervalo. O envio das leituras ao servidor é ajustado conforme a proximidade do limite, e ultrapassagens do limite são enviadas na hora.
+            </Text>
           </View>
 
           {/* High Tolerance Mode */}